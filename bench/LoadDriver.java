@@ -0,0 +1,83 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Minimal closed-loop HTTP load driver, used by connection-scalability.sh so the benchmark
+ * only needs a JDK. Each of N virtual threads keeps one request in flight, which keeps up
+ * to N HTTP/1.1 connections open against the server.
+ *
+ * Usage: java LoadDriver.java <url> <bearer-token> <connections> <seconds>
+ * Prints requests/sec, p50/p99 latency and the number of failed requests.
+ */
+public class LoadDriver {
+
+    private static final int MAX_LATENCY_MS = 60_000;
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args[0]);
+        String token = args[1];
+        int connections = Integer.parseInt(args[2]);
+        long seconds = Long.parseLong(args[3]);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        AtomicLongArray histogram = new AtomicLongArray(MAX_LATENCY_MS + 1);
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() == 200) {
+                                succeeded.incrementAndGet();
+                                int millis = (int) Math.min(MAX_LATENCY_MS, (System.nanoTime() - start) / 1_000_000);
+                                histogram.incrementAndGet(millis);
+                            } else {
+                                failed.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failed.incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+
+        System.out.printf("Requests/sec: %.1f%n", succeeded.get() / (double) seconds);
+        System.out.printf("p50: %dms%n", percentile(histogram, succeeded.get(), 0.50));
+        System.out.printf("p99: %dms%n", percentile(histogram, succeeded.get(), 0.99));
+        System.out.printf("Errors: %d%n", failed.get());
+    }
+
+    private static int percentile(AtomicLongArray histogram, long total, double quantile) {
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int millis = 0; millis <= MAX_LATENCY_MS; millis++) {
+            seen += histogram.get(millis);
+            if (seen >= target && target > 0) {
+                return millis;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,83 @@
+#!/usr/bin/env bash
+#
+# Side-by-side connection scalability benchmark of the servlet (default) and reactive modes.
+#
+# For each mode the application jar is built and started, a user is registered and logged in,
+# and authenticated GET /students requests are driven by LoadDriver.java at increasing connection
+# counts. Throughput, p50/p99 latency, failed requests, server thread count and RSS are reported per step.
+#
+# Requirements: JDK 21, curl, a running PostgreSQL and a high open-file limit (ulimit -n).
+# Run the servlet mode first on an empty database so JPA creates the users table.
+#
+# Configuration (environment):
+#   JDBC_URL     JDBC URL used by the servlet mode   (default jdbc:postgresql://localhost:5432/auth)
+#   R2DBC_URL    R2DBC URL used by the reactive mode (default r2dbc:postgresql://localhost:5432/auth)
+#   DB_USER      Database username                   (default postgres)
+#   DB_PASSWORD  Database password                   (default postgres)
+#   JWT_SECRET   jwt.secret of the application       (default: a fixed 256-bit test secret)
+#   CONNECTIONS  Connection counts to step through   (default "100 1000 5000 10000")
+#   DURATION     Seconds per step                    (default 30)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JDBC_URL=${JDBC_URL:-jdbc:postgresql://localhost:5432/auth}
+R2DBC_URL=${R2DBC_URL:-r2dbc:postgresql://localhost:5432/auth}
+DB_USER=${DB_USER:-postgres}
+DB_PASSWORD=${DB_PASSWORD:-postgres}
+JWT_SECRET=${JWT_SECRET:-bench-secret-bench-secret-bench-secret-0123}
+CONNECTIONS=${CONNECTIONS:-"100 1000 5000 10000"}
+DURATION=${DURATION:-30}
+PORT=8080
+BASE_URL="http://localhost:${PORT}"
+
+run_mode() {
+    local mode=$1
+    local build_args=() app_args=(--server.port="${PORT}" --jwt.secret="${JWT_SECRET}")
+
+    if [[ ${mode} == reactive ]]; then
+        build_args+=(-Preactive)
+        app_args+=(--spring.profiles.active=reactive
+                   --spring.r2dbc.url="${R2DBC_URL}"
+                   --spring.r2dbc.username="${DB_USER}"
+                   --spring.r2dbc.password="${DB_PASSWORD}")
+    else
+        app_args+=(--spring.datasource.url="${JDBC_URL}"
+                   --spring.datasource.username="${DB_USER}"
+                   --spring.datasource.password="${DB_PASSWORD}"
+                   --spring.jpa.hibernate.ddl-auto=update)
+    fi
+
+    sh ./mvnw -q -B -DskipTests "${build_args[@]}" clean package
+    java -jar target/authorizationApp-0.0.1-SNAPSHOT.jar "${app_args[@]}" > "target/bench-${mode}.log" 2>&1 &
+    local pid=$!
+    trap 'kill ${pid} 2>/dev/null; wait ${pid} 2>/dev/null || true' RETURN
+
+    until curl -s -o /dev/null "${BASE_URL}/login"; do
+        kill -0 ${pid} 2>/dev/null || { echo "${mode}: application failed to start, see target/bench-${mode}.log"; return 1; }
+        sleep 1
+    done
+
+    local username="bench-${mode}-${RANDOM}"
+    curl -s -o /dev/null -H 'Content-Type: application/json' \
+        -d "{\"id\":$(( RANDOM * 10000 + RANDOM % 10000 + 1 )),\"username\":\"${username}\",\"password\":\"bench\"}" "${BASE_URL}/register"
+    local token
+    token=$(curl -s -H 'Content-Type: application/json' \
+        -d "{\"username\":\"${username}\",\"password\":\"bench\"}" "${BASE_URL}/login")
+
+    for connections in ${CONNECTIONS}; do
+        local output
+        output=$(java bench/LoadDriver.java "${BASE_URL}/students" "${token}" "${connections}" "${DURATION}")
+        printf '%-9s %7s %10s %8s %8s %8s %8s %8s\n' "${mode}" "${connections}" \
+            "$(awk '/Requests\/sec/ {print $2}' <<< "${output}")" \
+            "$(awk '/p50/ {print $2}' <<< "${output}")" \
+            "$(awk '/p99/ {print $2}' <<< "${output}")" \
+            "$(awk '/Errors/ {print $2}' <<< "${output}")" \
+            "$(ps -o nlwp= -p ${pid} | tr -d ' ')" \
+            "$(( $(ps -o rss= -p ${pid}) / 1024 ))MB"
+    done
+}
+
+printf '%-9s %7s %10s %8s %8s %8s %8s %8s\n' mode conns req/s p50 p99 errors threads rss
+run_mode servlet
+run_mode reactive
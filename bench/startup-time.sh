@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-authenticated-request of the default build and of the
+# fast-startup build (Spring AOT + CDS archive), side by side.
+#
+# A bench user is registered once up front. Each measured run then starts the JVM and
+# polls GET /students with HTTP Basic credentials until it answers 200, so the figure
+# covers context refresh, the first database lookup and the BCrypt check.
+#
+# Requirements: curl and a running PostgreSQL.
+#
+# Configuration (environment):
+#   JDBC_URL     JDBC URL of the database   (default jdbc:postgresql://localhost:5432/auth)
+#   DB_USER      Database username          (default postgres)
+#   DB_PASSWORD  Database password          (default postgres)
+#   JWT_SECRET   jwt.secret of the application (default: a fixed 256-bit test secret)
+#   RUNS         Measured runs per variant  (default 5)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+JDBC_URL=${JDBC_URL:-jdbc:postgresql://localhost:5432/auth}
+DB_USER=${DB_USER:-postgres}
+DB_PASSWORD=${DB_PASSWORD:-postgres}
+JWT_SECRET=${JWT_SECRET:-bench-secret-bench-secret-bench-secret-0123}
+RUNS=${RUNS:-5}
+PORT=8080
+BASE_URL="http://localhost:${PORT}"
+LOG="$(pwd)/target/startup-bench.log"
+USERNAME="startup-bench"
+PASSWORD="startup-bench"
+APP_ARGS=(--server.port="${PORT}"
+          --jwt.secret="${JWT_SECRET}"
+          --spring.datasource.url="${JDBC_URL}"
+          --spring.datasource.username="${DB_USER}"
+          --spring.datasource.password="${DB_PASSWORD}"
+          --spring.jpa.hibernate.ddl-auto=update)
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts the application with the given JVM command and prints the milliseconds
+# until the first authenticated request succeeds
+time_to_first_request() {
+    local start pid
+    start=$(now_ms)
+    "$@" "${APP_ARGS[@]}" > "${LOG}" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null -u "${USERNAME}:${PASSWORD}" "${BASE_URL}/students"; do
+        kill -0 ${pid} 2>/dev/null || { echo "application failed to start, see ${LOG}" >&2; return 1; }
+        sleep 0.05
+    done
+    echo $(( $(now_ms) - start ))
+    kill ${pid}
+    wait ${pid} 2>/dev/null || true
+}
+
+measure() {
+    local label=$1
+    shift
+    local total=0 elapsed
+    for (( run = 1; run <= RUNS; run++ )); do
+        elapsed=$(time_to_first_request "$@")
+        total=$(( total + elapsed ))
+        printf '%-14s run %d: %6d ms\n' "${label}" "${run}" "${elapsed}"
+    done
+    printf '%-14s mean:  %6d ms\n' "${label}" $(( total / RUNS ))
+}
+
+# Default build, also used to register the bench user
+sh ./mvnw -q -B -DskipTests clean package
+cp target/authorizationApp-0.0.1-SNAPSHOT.jar target/default.jar
+java -jar target/default.jar "${APP_ARGS[@]}" > "${LOG}" 2>&1 &
+pid=$!
+until curl -s -o /dev/null "${BASE_URL}/login"; do sleep 0.5; done
+curl -sf -o /dev/null -u "${USERNAME}:${PASSWORD}" "${BASE_URL}/students" || curl -s -o /dev/null -H 'Content-Type: application/json' \
+    -d "{\"id\":$(( RANDOM * 10000 + RANDOM % 10000 + 1 )),\"username\":\"${USERNAME}\",\"password\":\"${PASSWORD}\"}" \
+    "${BASE_URL}/register"
+kill ${pid}
+wait ${pid} 2>/dev/null || true
+
+measure before java -jar target/default.jar
+
+# Fast-startup build: AOT-processed, extracted, with a CDS archive from the training run
+sh ./mvnw -q -B -DskipTests -Pfast-startup clean package
+(cd target/application && measure after java -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true \
+    -jar authorizationApp-0.0.1-SNAPSHOT.jar)
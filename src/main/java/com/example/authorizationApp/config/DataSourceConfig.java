@@ -0,0 +1,105 @@
+/**
+ * Data source configuration class for the authorization application.
+ * When read replicas are configured, this class replaces the auto-configured data source
+ * with one that routes read-only transactions to the replicas.
+ */
+package com.example.authorizationApp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configures replica routing for the JPA data source
+ * Only active in servlet mode when app.datasource.replica.urls is set
+ * Requires spring.jpa.open-in-view=false, see "Read Replicas" in this package's README.md
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "urls")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DataSourceConfig {
+
+    /**
+     * Prefix of the Hikari pool settings shared by the primary and the replicas
+     */
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    /**
+     * Creates the primary pool, bound to spring.datasource.hikari.* like Boot's own Hikari data source
+     * @param properties Standard spring.datasource.* properties of the primary
+     * @return Primary Hikari pool
+     */
+    @Bean
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        if (StringUtils.hasText(properties.getName())) {
+            dataSource.setPoolName(properties.getName());
+        }
+        return dataSource;
+    }
+
+    /**
+     * Creates the routing data source over the primary and the replica pools
+     * Replica pools inherit spring.datasource.hikari.* but use a short connection timeout,
+     * so that a dead replica is skipped quickly instead of stalling the request
+     * @param primaryDataSource Primary Hikari pool
+     * @param primaryProperties Standard spring.datasource.* properties of the primary
+     * @param replicaProperties Replica properties
+     * @param environment Environment used to bind the shared Hikari settings onto the replica pools
+     * @return Routing data source owning the replica pools
+     */
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      DataSourceProperties primaryProperties,
+                                                      ReplicaDataSourceProperties replicaProperties,
+                                                      Environment environment) {
+        Binder binder = Binder.get(environment);
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaProperties.getUrls()) {
+            HikariDataSource replica = primaryProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(replicaProperties.getUsername() != null
+                            ? replicaProperties.getUsername() : primaryProperties.determineUsername())
+                    .password(replicaProperties.getPassword() != null
+                            ? replicaProperties.getPassword() : primaryProperties.determinePassword())
+                    .build();
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaProperties.getHealthCheckInterval());
+    }
+
+    /**
+     * Exposes the routing data source to JPA behind a lazy connection proxy, so that the
+     * replica-or-primary decision is made once the transaction's read-only flag is known
+     * @param routingDataSource Routing data source
+     * @return Primary data source used by the application
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Configuration properties for the read replicas used by the routing data source.
+ * The primary data source keeps using the standard spring.datasource.* properties.
+ */
+package com.example.authorizationApp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+    /**
+     * JDBC URLs of the read replicas; replica routing is enabled when at least one is set
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * Login username of the replicas, defaults to the primary's username
+     */
+    private String username;
+
+    /**
+     * Login password of the replicas, defaults to the primary's password
+     */
+    private String password;
+
+    /**
+     * Maximum time to wait for a replica connection before falling back to the primary
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+
+    /**
+     * Interval between replica health checks
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * How long lookups of a freshly written user stay on the primary
+     */
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    public Duration getStickiness() {
+        return stickiness;
+    }
+
+    public void setStickiness(Duration stickiness) {
+        this.stickiness = stickiness;
+    }
+}
@@ -0,0 +1,255 @@
+/**
+ * Routing data source that sends read-only transactions to a pool of read replicas.
+ * Writes and non-transactional access always go to the primary data source.
+ */
+package com.example.authorizationApp.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Data source that routes read-only transactions to healthy replicas in round-robin order.
+ * Must be wrapped in a LazyConnectionDataSourceProxy so that the routing decision is made
+ * after the transaction's read-only flag has been bound to the current thread.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    /**
+     * Marks the current thread as pinned to the primary, e.g. for read-your-writes lookups
+     */
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = ThreadLocal.withInitial(() -> false);
+
+    /**
+     * Primary data source receiving all writes
+     */
+    private final DataSource primary;
+
+    /**
+     * Read replicas together with their health state
+     */
+    private final List<Replica> replicas;
+
+    /**
+     * Round-robin cursor over the replicas
+     */
+    private final AtomicInteger next = new AtomicInteger();
+
+    /**
+     * Executor running the periodic replica health checks
+     */
+    private final ScheduledExecutorService healthChecker;
+
+    /**
+     * Interval between replica health checks
+     */
+    private final Duration healthCheckInterval;
+
+    /**
+     * Creates a routing data source; the health check starts once the bean is initialized
+     * @param primary The primary data source
+     * @param replicas The read replica data sources
+     * @param healthCheckInterval Interval between replica health checks
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration healthCheckInterval) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.healthCheckInterval = healthCheckInterval;
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-health-check").daemon().factory());
+    }
+
+    /**
+     * Starts the periodic replica health check
+     */
+    @Override
+    public void afterPropertiesSet() {
+        healthChecker.scheduleWithFixedDelay(this::checkHealth,
+                healthCheckInterval.toMillis(), healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs the given action with all data access on the current thread routed to the primary
+     * @param action The action to run
+     * @return The result of the action
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        if (PRIMARY_PINNED.get()) {
+            return action.get();
+        }
+        PRIMARY_PINNED.set(true);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_PINNED.remove();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Obtains a connection from the next healthy replica when routing to replicas,
+     * falling back to the primary when no replica can serve the request
+     * A replica whose pool is merely exhausted is skipped for this request but stays healthy
+     * @param opener Function opening a connection on a given data source
+     * @return A connection from a replica or the primary
+     * @throws SQLException if the primary fails to provide a connection
+     */
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (routeToReplica()) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                Replica replica = nextReplica();
+                if (!replica.healthy) {
+                    continue;
+                }
+                try {
+                    return opener.open(replica.dataSource);
+                } catch (SQLException e) {
+                    if (isConnectionFailure(e)) {
+                        replica.healthy = false;  // Skip until the next successful health check
+                    }
+                }
+            }
+        }
+        return opener.open(primary);
+    }
+
+    /**
+     * Checks every replica and updates its health state
+     * A replica whose pool is exhausted keeps its current state, since it is busy rather than down
+     * Never throws, since an exception would cancel all later scheduled runs
+     */
+    void checkHealth() {
+        for (int index = 0; index < replicas.size(); index++) {
+            Replica replica = replicas.get(index);
+            boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                replica.healthy = connection.isValid(2);
+            } catch (SQLException e) {
+                if (isConnectionFailure(e)) {
+                    markFailed(replica, index, e);
+                }
+            } catch (RuntimeException e) {
+                markFailed(replica, index, e);
+            }
+            if (!wasHealthy && replica.healthy) {
+                log.info("Replica {} is healthy again", index);
+            }
+        }
+    }
+
+    /**
+     * Marks a replica unhealthy, logging only the transition
+     * @param replica The replica that failed
+     * @param index Position of the replica, used in the log message
+     * @param cause Why the replica failed
+     */
+    private static void markFailed(Replica replica, int index, Exception cause) {
+        if (replica.healthy) {
+            log.warn("Replica {} failed its health check", index, cause);
+        }
+        replica.healthy = false;
+    }
+
+    /**
+     * Tells a replica that cannot be reached apart from one whose pool is merely exhausted
+     * Hikari reports both with SQLTransientConnectionException, but only attaches a cause
+     * when the pool failed to open a connection to the database
+     * @param e The exception thrown while obtaining a connection
+     * @return true if the replica should be treated as down
+     */
+    private static boolean isConnectionFailure(SQLException e) {
+        return !(e instanceof SQLTransientConnectionException) || e.getCause() != null;
+    }
+
+    /**
+     * Returns the replica data sources in round-robin order
+     * @return The read replica data sources
+     */
+    List<DataSource> getReplicaDataSources() {
+        return replicas.stream().map(replica -> replica.dataSource).toList();
+    }
+
+    /**
+     * Stops the health check and closes the replica pools
+     * The primary is owned by its own bean and closed by the container
+     */
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                try {
+                    closeable.close();
+                } catch (IOException e) {
+                    log.warn("Failed to close a replica pool", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Decides whether the current connection request may be served by a replica
+     * @return true inside a read-only transaction that is not pinned to the primary
+     */
+    private boolean routeToReplica() {
+        return !replicas.isEmpty()
+                && !PRIMARY_PINNED.get()
+                && TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Advances the round-robin cursor
+     * @return The next replica in order
+     */
+    private Replica nextReplica() {
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+
+    /**
+     * Opens a connection on a data source
+     */
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    /**
+     * A read replica and its last known health state
+     */
+    private static final class Replica {
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
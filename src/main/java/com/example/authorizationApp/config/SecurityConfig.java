@@ -6,7 +6,9 @@
 package com.example.authorizationApp.config;
 
 import com.example.authorizationApp.filter.JwtFilter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,6 +22,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -29,6 +32,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  */
 @Configuration
 @EnableWebSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
 
     /**
@@ -43,21 +47,30 @@ public class SecurityConfig {
     @Autowired
     private JwtFilter jwtFilter;
 
+    /**
+     * OAuth2 client registrations, only present when a provider is configured
+     */
+    @Autowired
+    private ObjectProvider<ClientRegistrationRepository> clientRegistrations;
+
     /**
      * Configures the security filter chain
+     * OAuth2 login is only enabled when a client registration is configured
      * @param http HttpSecurity object to configure
      * @return Configured SecurityFilterChain
      * @throws Exception if configuration fails
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        if (clientRegistrations.getIfAvailable() != null) {
+            http.oauth2Login(Customizer.withDefaults());  // Enable OAuth2 login
+        }
         return http
                 .csrf(AbstractHttpConfigurer::disable)  // Disable CSRF protection
                 .authorizeHttpRequests(request -> request
                         .requestMatchers("register", "login")  // Public endpoints
                         .permitAll()
                         .anyRequest().authenticated())  // All other requests require authentication
-                .oauth2Login(Customizer.withDefaults())  // Enable OAuth2 login
                 .httpBasic(Customizer.withDefaults())  // Enable HTTP Basic authentication
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))  // Use stateless sessions
                 .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)  // Add JWT filter
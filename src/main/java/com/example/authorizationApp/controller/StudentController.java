@@ -5,34 +5,69 @@
 package com.example.authorizationApp.controller;
 
 import com.example.authorizationApp.model.Student;
+import com.example.authorizationApp.service.StudentService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * REST controller for handling student-related HTTP requests.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class StudentController {
     /**
-     * In-memory list to store student records.
+     * Service holding the versioned in-memory student store.
      */
-    List<Student> students = new ArrayList<>();
+    @Autowired
+    private StudentService studentService;
 
     /**
      * Retrieves all students from the system.
+     * Answers with 304 Not Modified when the client's If-None-Match matches the current
+     * store version, and serves the cached gzip body when the client accepts it.
      *
-     * @return List of all students
+     * @param request The web request used for the conditional GET check
+     * @param servletResponse The HTTP servlet response, carrying headers shared by the 200 and 304 responses
+     * @param acceptEncoding The Accept-Encoding header of the request, if any
+     * @return The serialized list of all students, or null when not modified
      */
     @GetMapping("/students")
-    public List<Student> getStudents() {
-        return students;
+    public ResponseEntity<byte[]> getStudents(
+            WebRequest request,
+            HttpServletResponse servletResponse,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean gzip = StudentService.acceptsGzip(acceptEncoding);
+        servletResponse.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);  // A 304 must carry the same Vary as the 200
+        if (request.checkNotModified(studentService.getETag(gzip))) {
+            return null;
+        }
+
+        StudentService.Representation representation = studentService.getRepresentation();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePrivate());  // Revalidate on every poll instead of Spring Security's no-store
+        if (gzip) {
+            return response
+                    .eTag(representation.gzipETag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(representation.gzip());
+        }
+        return response
+                .eTag(representation.eTag())
+                .body(representation.json());
     }
 
     /**
@@ -54,7 +89,6 @@ public class StudentController {
      */
     @PostMapping("/students")
     public Student createStudent(@RequestBody Student student) {
-        students.add(student);
-        return student;
+        return studentService.addStudent(student);
     }
  }
@@ -7,6 +7,7 @@ package com.example.authorizationApp.controller;
 import com.example.authorizationApp.model.Users;
 import com.example.authorizationApp.service.UsersService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
  * Handles HTTP requests for user registration and authentication.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UsersController {
     /**
      * Service layer dependency for user operations
@@ -3,6 +3,7 @@ package com.example.authorizationApp.repo;
 import com.example.authorizationApp.model.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Repository interface for managing User entities
@@ -13,8 +14,10 @@ public interface UserRepo extends JpaRepository<Users, Integer> {
     
     /**
      * Finds a user by their username
+     * Runs in a read-only transaction so it can be served by a read replica
      * @param username The username to search for
      * @return The Users entity if found, null otherwise
      */
+    @Transactional(readOnly = true)
     Users findByUsername(String username);
 }
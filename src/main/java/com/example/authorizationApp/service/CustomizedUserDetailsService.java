@@ -4,16 +4,20 @@
  */
 package com.example.authorizationApp.service;
 
+import com.example.authorizationApp.config.ReplicaRoutingDataSource;
 import com.example.authorizationApp.model.Users;
 import com.example.authorizationApp.model.UserPrincipal;
 import com.example.authorizationApp.repo.UserRepo;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CustomizedUserDetailsService implements UserDetailsService {
     /**
      * Repository for accessing user data
@@ -21,8 +25,22 @@ public class CustomizedUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepo userRepo;
 
+    /**
+     * Tracker of freshly registered users that must be read from the primary
+     */
+    @Autowired
+    private RecentWritesTracker recentWritesTracker;
+
+    /**
+     * Replica routing, only present when read replicas are configured
+     */
+    @Autowired
+    private ObjectProvider<ReplicaRoutingDataSource> replicaRouting;
+
     /**
      * Loads a user by their username during authentication
+     * With read replicas, a user missing on the replica is looked up once more on the primary,
+     * since it may have been registered moments ago through another instance
      * 
      * @param username The username to search for
      * @return UserDetails object containing the user's security information
@@ -30,7 +48,15 @@ public class CustomizedUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Users user = userRepo.findByUsername(username);
+        Users user;
+        if (recentWritesTracker.isRecentlyWritten(username)) {
+            user = ReplicaRoutingDataSource.onPrimary(() -> userRepo.findByUsername(username));
+        } else {
+            user = userRepo.findByUsername(username);
+            if (user == null && replicaRouting.getIfAvailable() != null) {
+                user = ReplicaRoutingDataSource.onPrimary(() -> userRepo.findByUsername(username));  // Replica may lag behind
+            }
+        }
         if (user == null) {
             System.out.println("User not found");
             throw new UsernameNotFoundException(username);
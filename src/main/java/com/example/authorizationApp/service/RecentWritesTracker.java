@@ -0,0 +1,49 @@
+/**
+ * Tracks recently written users to provide read-your-writes consistency.
+ * Lookups of a user written within the stickiness window are served by the primary
+ * instead of a read replica that may not have caught up yet.
+ * The tracker is local to one instance; writes made through other instances are covered
+ * by CustomizedUserDetailsService retrying missing users on the primary.
+ */
+package com.example.authorizationApp.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class RecentWritesTracker {
+    /**
+     * Usernames written recently, mapped to the time (in nanos) their stickiness expires
+     */
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    /**
+     * How long lookups of a freshly written user stay on the primary
+     */
+    @Value("${app.datasource.replica.stickiness:5s}")
+    private Duration stickiness;
+
+    /**
+     * Records a write of the given user and prunes expired entries
+     * @param username The username that was written
+     */
+    public void markWritten(String username) {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(expiry -> expiry - now < 0);
+        stickyUntil.put(username, now + stickiness.toNanos());
+    }
+
+    /**
+     * Checks whether the given user was written within the stickiness window
+     * @param username The username to check
+     * @return true if lookups of the user should go to the primary
+     */
+    public boolean isRecentlyWritten(String username) {
+        Long expiry = stickyUntil.get(username);
+        return expiry != null && expiry - System.nanoTime() > 0;
+    }
+}
@@ -0,0 +1,160 @@
+/**
+ * Service class for managing the in-memory student store.
+ * Keeps a monotonically increasing version of the store and caches the serialized
+ * (plain and gzip-compressed) representation of the student list per version.
+ */
+package com.example.authorizationApp.service;
+
+import com.example.authorizationApp.model.Student;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class StudentService {
+    /**
+     * In-memory list to store student records, guarded by this service's monitor
+     */
+    private final List<Student> students = new ArrayList<>();
+
+    /**
+     * Identifies this instance of the store so that ETags do not survive a restart
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    /**
+     * Version of the store, incremented on every modification
+     */
+    private volatile long version;
+
+    /**
+     * Last serialized representation of the student list
+     */
+    private volatile Representation cached;
+
+    /**
+     * Object mapper used to serialize the student list
+     */
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Adds a new student to the store and bumps the store version
+     * @param student The student object to be added
+     * @return The added student object
+     */
+    public synchronized Student addStudent(Student student) {
+        students.add(student);
+        version++;
+        return student;
+    }
+
+    /**
+     * Computes the strong ETag of the current store version without serializing anything
+     * @param gzip Whether the ETag is for the gzip-compressed representation
+     * @return Quoted strong ETag value
+     */
+    public String getETag(boolean gzip) {
+        return eTag(version, gzip);
+    }
+
+    /**
+     * Returns the serialized representation of the current store version,
+     * serializing and compressing the student list only when the version has changed
+     * @return Cached representation for the current version
+     */
+    public Representation getRepresentation() {
+        Representation current = cached;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        synchronized (this) {
+            current = cached;
+            if (current == null || current.version() != version) {
+                current = serialize();
+                cached = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Serializes the student list at the current version; caller must hold this service's monitor
+     * @return Fresh representation of the student list
+     */
+    private Representation serialize() {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(students);
+            return new Representation(version, eTag(version, false), eTag(version, true), json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize students", e);
+        }
+    }
+
+    /**
+     * Builds a quoted strong ETag for the given version and encoding
+     * @param version Store version
+     * @param gzip Whether the ETag is for the gzip-compressed representation
+     * @return Quoted strong ETag value
+     */
+    private String eTag(long version, boolean gzip) {
+        return "\"" + epoch + "-" + version + (gzip ? "-gzip" : "") + "\"";
+    }
+
+    /**
+     * Compresses the given bytes using gzip
+     * @param data Bytes to compress
+     * @return Gzip-compressed bytes
+     */
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Checks whether a client accepts a gzip-compressed representation
+     * @param acceptEncoding The Accept-Encoding header value, may be null
+     * @return true if gzip is listed with a non-zero quality value
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    if (parts[i].trim().replace(" ", "").matches("[qQ]=0(\\.0{0,3})?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Serialized representation of the student list at a given store version
+     * @param version Store version the representation was built from
+     * @param eTag Strong ETag of the plain JSON body
+     * @param gzipETag Strong ETag of the gzip-compressed body
+     * @param json Plain JSON body
+     * @param gzip Gzip-compressed JSON body
+     */
+    public record Representation(long version, String eTag, String gzipETag, byte[] json, byte[] gzip) {
+    }
+}
@@ -7,6 +7,7 @@ package com.example.authorizationApp.service;
 import com.example.authorizationApp.model.Users;
 import com.example.authorizationApp.repo.UserRepo;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -14,6 +15,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UsersService {
     /**
      * BCrypt password encoder with strength 12 for secure password hashing
@@ -38,6 +40,12 @@ public class UsersService {
     @Autowired
     private JWTService jwtService;
 
+    /**
+     * Tracker keeping lookups of freshly registered users on the primary
+     */
+    @Autowired
+    private RecentWritesTracker recentWritesTracker;
+
     /**
      * Registers a new user in the system
      * @param user The user object containing registration details
@@ -46,7 +54,9 @@ public class UsersService {
     public Users registerUser(Users user) {
         final String encodedPassword = encoder.encode(user.getPassword());
         user.setPassword(encodedPassword);
-        return userRepo.save(user);
+        Users saved = userRepo.save(user);
+        recentWritesTracker.markWritten(saved.getUsername());  // Read-your-writes: keep lookups on the primary
+        return saved;
     }
 
     /**
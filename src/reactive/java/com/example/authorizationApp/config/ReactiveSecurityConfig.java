@@ -0,0 +1,78 @@
+/**
+ * Reactive security configuration class for the authorization application.
+ * This class is the WebFlux counterpart of SecurityConfig and is only active when the
+ * application runs as a reactive web application.
+ */
+package com.example.authorizationApp.config;
+
+import com.example.authorizationApp.filter.JwtWebFilter;
+import com.example.authorizationApp.service.JWTService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.config.Customizer;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.oauth2.client.registration.ReactiveClientRegistrationRepository;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Main reactive security configuration class
+ * Enables WebFlux security and provides configuration beans
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    /**
+     * Configures the security web filter chain
+     * OAuth2 login is only enabled when a client registration is configured
+     * @param http ServerHttpSecurity object to configure
+     * @param jwtService Service for JWT operations
+     * @param userDetailsService Reactive service to load user-specific data
+     * @param clientRegistrations OAuth2 client registrations, only present when a provider is configured
+     * @return Configured SecurityWebFilterChain
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         JWTService jwtService,
+                                                         ReactiveUserDetailsService userDetailsService,
+                                                         ObjectProvider<ReactiveClientRegistrationRepository> clientRegistrations) {
+        if (clientRegistrations.getIfAvailable() != null) {
+            http.oauth2Login(Customizer.withDefaults());  // Enable OAuth2 login
+        }
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)  // Disable CSRF protection
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers("/register", "/login")  // Public endpoints
+                        .permitAll()
+                        .anyExchange().authenticated())  // All other requests require authentication
+                .httpBasic(Customizer.withDefaults())  // Enable HTTP Basic authentication
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())  // Use stateless sessions
+                .addFilterBefore(new JwtWebFilter(jwtService, userDetailsService), SecurityWebFiltersOrder.AUTHENTICATION)  // Add JWT filter
+                .build();
+    }
+
+    /**
+     * Configures the reactive authentication manager
+     * @param userDetailsService Reactive service to load user-specific data
+     * @return Configured UserDetailsRepositoryReactiveAuthenticationManager
+     */
+    @Bean
+    public ReactiveAuthenticationManager authenticationManager(ReactiveUserDetailsService userDetailsService) {
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(userDetailsService);
+        authenticationManager.setPasswordEncoder(new BCryptPasswordEncoder(12));  // Use BCrypt with strength 12
+        authenticationManager.setScheduler(Schedulers.boundedElastic());  // Keep BCrypt off the event loop
+        return authenticationManager;
+    }
+}
@@ -0,0 +1,27 @@
+/**
+ * Web server configuration class for the reactive deployment mode.
+ * Tomcat stays on the classpath for servlet mode, so Netty has to be chosen explicitly.
+ */
+package com.example.authorizationApp.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the embedded web server of the reactive application
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveServerConfig {
+
+    /**
+     * Serves the reactive application with Netty even though Tomcat is also on the classpath
+     * @return Netty web server factory
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.authorizationApp.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveHelloController {
+    @GetMapping("/hello")
+    Mono<String> getSession(ServerWebExchange exchange) {
+        return exchange.getSession().map(session -> "Hello: SessionID: " + session.getId());
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Reactive controller class for managing student-related operations in the authorization application.
+ * This class is the WebFlux counterpart of StudentController and shares its StudentService.
+ */
+package com.example.authorizationApp.controller;
+
+import com.example.authorizationApp.model.Student;
+import com.example.authorizationApp.service.StudentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.web.server.csrf.CsrfToken;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive REST controller for handling student-related HTTP requests.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveStudentController {
+    /**
+     * Service holding the versioned in-memory student store.
+     */
+    @Autowired
+    private StudentService studentService;
+
+    /**
+     * Retrieves all students from the system.
+     * Answers with 304 Not Modified when the client's If-None-Match matches the current
+     * store version, and serves the cached gzip body when the client accepts it.
+     *
+     * @param exchange The current server exchange
+     * @return Mono emitting the serialized list of all students, empty when not modified
+     */
+    @GetMapping("/students")
+    public Mono<ResponseEntity<byte[]>> getStudents(ServerWebExchange exchange) {
+        boolean gzip = StudentService.acceptsGzip(
+                exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT_ENCODING));
+        exchange.getResponse().getHeaders().set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);  // A 304 must carry the same Vary as the 200
+        if (exchange.checkNotModified(studentService.getETag(gzip))) {
+            return Mono.empty();
+        }
+
+        StudentService.Representation representation = studentService.getRepresentation();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePrivate());  // Revalidate on every poll instead of Spring Security's no-store
+        if (gzip) {
+            return Mono.just(response
+                    .eTag(representation.gzipETag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(representation.gzip()));
+        }
+        return Mono.just(response
+                .eTag(representation.eTag())
+                .body(representation.json()));
+    }
+
+    /**
+     * Retrieves the CSRF token for security purposes.
+     *
+     * @param exchange The current server exchange carrying the CSRF token attribute
+     * @return Mono emitting the CSRF token object, empty if CSRF protection is disabled
+     */
+    @GetMapping("/csrf-token")
+    public Mono<CsrfToken> getCsrfToken(ServerWebExchange exchange) {
+        Mono<CsrfToken> csrfToken = exchange.getAttribute(CsrfToken.class.getName());
+        return csrfToken != null ? csrfToken : Mono.empty();
+    }
+
+    /**
+     * Creates a new student in the system.
+     *
+     * @param student The student object to be created
+     * @return The created student object
+     */
+    @PostMapping("/students")
+    public Student createStudent(@RequestBody Student student) {
+        return studentService.addStudent(student);
+    }
+}
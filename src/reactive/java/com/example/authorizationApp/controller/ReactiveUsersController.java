@@ -0,0 +1,48 @@
+/**
+ * Reactive controller class for handling user-related HTTP requests.
+ * This class is the WebFlux counterpart of UsersController.
+ */
+package com.example.authorizationApp.controller;
+
+import com.example.authorizationApp.model.Users;
+import com.example.authorizationApp.service.ReactiveUsersService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive REST controller for managing user operations.
+ * Handles HTTP requests for user registration and authentication.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUsersController {
+    /**
+     * Service layer dependency for user operations
+     */
+    @Autowired
+    private ReactiveUsersService usersService;
+
+    /**
+     * Handles user registration requests
+     * @param user The user object containing registration details
+     * @return Mono emitting the registered user object
+     */
+    @PostMapping("/register")
+    public Mono<Users> registerUsers(@RequestBody Users user) {
+        return usersService.registerUser(user);
+    }
+
+    /**
+     * Handles user login requests
+     * @param user The user object containing login credentials
+     * @return Mono emitting a string indicating the login result/token
+     */
+    @PostMapping("/login")
+    public Mono<String> loginUser(@RequestBody Users user) {
+        return usersService.verify(user);
+    }
+}
@@ -0,0 +1,89 @@
+/**
+ * Reactive JWT Authentication Filter
+ * This filter is the WebFlux counterpart of JwtFilter. It validates the bearer token of
+ * each exchange and, if valid, propagates the authentication through the Reactor context.
+ */
+package com.example.authorizationApp.filter;
+
+import com.example.authorizationApp.service.JWTService;
+import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * WebFilter that handles JWT token validation and authentication
+ * Registered in the security filter chain by ReactiveSecurityConfig rather than as a bean,
+ * so it is not also applied as a global WebFilter
+ */
+public class JwtWebFilter implements WebFilter {
+
+    /**
+     * Service for JWT operations like token validation and username extraction
+     */
+    private final JWTService jwtService;
+
+    /**
+     * Reactive service for loading user details from the database
+     */
+    private final ReactiveUserDetailsService userDetailsService;
+
+    /**
+     * Constructor to create a new JwtWebFilter
+     * @param jwtService Service for JWT operations
+     * @param userDetailsService Reactive service for loading user details
+     */
+    public JwtWebFilter(JWTService jwtService, ReactiveUserDetailsService userDetailsService) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+    }
+
+    /**
+     * Main filter method that processes each exchange
+     * @param exchange The current server exchange
+     * @param chain The filter chain for additional filters
+     * @return Completion signal of the filter chain
+     */
+    @Override
+    @NonNull
+    public Mono<Void> filter(@NonNull ServerWebExchange exchange, @NonNull WebFilterChain chain) {
+        // Extract the Authorization header from the request
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        // Check if Authorization header exists and starts with "Bearer "
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        // Extract the JWT token (remove "Bearer " prefix)
+        String token = authHeader.substring(7);
+        return Mono.fromCallable(() -> jwtService.extractUsername(token))
+                // Treat malformed, expired or wrongly signed tokens as unauthenticated
+                .onErrorResume(JwtException.class, e -> Mono.empty())
+                // Load user details from database
+                .flatMap(userDetailsService::findByUsername)
+                // Validate the token against user details
+                .filter(userDetails -> jwtService.validateToken(token, userDetails))
+                // Create authentication token with user details and authorities
+                .<Authentication>map(userDetails -> new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities()))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                // Continue the filter chain, with the authentication in the Reactor context if present
+                .flatMap(authentication -> authentication
+                        .map(auth -> chain.filter(exchange)
+                                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(auth)))
+                        .orElseGet(() -> chain.filter(exchange)));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.authorizationApp.repo;
+
+import com.example.authorizationApp.model.Users;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive repository for managing User entities over R2DBC
+ * Reads and writes the same users table that UserRepo maps through JPA
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserRepo {
+
+    /**
+     * Non-blocking client for the R2DBC connection factory
+     */
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Finds a user by their username
+     * @param username The username to search for
+     * @return Mono emitting the Users entity if found, empty otherwise
+     */
+    public Mono<Users> findByUsername(String username) {
+        return databaseClient.sql("SELECT id, username, password FROM users WHERE username = :username")
+                .bind("username", username)
+                .map((row, metadata) -> {
+                    Users user = new Users();
+                    user.setId(row.get("id", Integer.class));
+                    user.setUsername(row.get("username", String.class));
+                    user.setPassword(row.get("password", String.class));
+                    return user;
+                })
+                .one();
+    }
+
+    /**
+     * Inserts a new user
+     * @param user The user to insert
+     * @return Mono emitting the saved user
+     */
+    public Mono<Users> save(Users user) {
+        return databaseClient.sql("INSERT INTO users (id, username, password) VALUES (:id, :username, :password)")
+                .bind("id", user.getId())
+                .bind("username", user.getUsername())
+                .bind("password", user.getPassword())
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(user);
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Custom implementation of Spring Security's ReactiveUserDetailsService.
+ * This service is the reactive counterpart of CustomizedUserDetailsService and loads
+ * user-specific data over R2DBC during authentication.
+ */
+package com.example.authorizationApp.service;
+
+import com.example.authorizationApp.model.UserPrincipal;
+import com.example.authorizationApp.repo.ReactiveUserRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCustomizedUserDetailsService implements ReactiveUserDetailsService {
+    /**
+     * Reactive repository for accessing user data
+     */
+    @Autowired
+    private ReactiveUserRepo userRepo;
+
+    /**
+     * Loads a user by their username during authentication
+     *
+     * @param username The username to search for
+     * @return Mono emitting the user's security information, empty if the user is not found
+     */
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        return userRepo.findByUsername(username)
+                .map(UserPrincipal::new);
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Reactive service class for handling user-related operations including registration and authentication.
+ * This service is the reactive counterpart of UsersService.
+ */
+package com.example.authorizationApp.service;
+
+import com.example.authorizationApp.model.Users;
+import com.example.authorizationApp.repo.ReactiveUserRepo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUsersService {
+    /**
+     * BCrypt password encoder with strength 12 for secure password hashing
+     */
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
+
+    /**
+     * Reactive repository for user data persistence
+     */
+    @Autowired
+    private ReactiveUserRepo userRepo;
+
+    /**
+     * Reactive authentication manager for handling user authentication
+     */
+    @Autowired
+    private ReactiveAuthenticationManager authManager;
+
+    /**
+     * Service for JWT token generation and management
+     */
+    @Autowired
+    private JWTService jwtService;
+
+    /**
+     * Registers a new user in the system
+     * Password hashing runs on the bounded elastic scheduler to keep it off the event loop
+     * @param user The user object containing registration details
+     * @return Mono emitting the saved user object with encrypted password
+     */
+    public Mono<Users> registerUser(Users user) {
+        return Mono.fromCallable(() -> encoder.encode(user.getPassword()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(encodedPassword -> {
+                    user.setPassword(encodedPassword);
+                    return userRepo.save(user);
+                });
+    }
+
+    /**
+     * Verifies user credentials and generates JWT token upon successful authentication
+     * Bad credentials are answered with 401, like the servlet login
+     * @param user The user object containing login credentials
+     * @return Mono emitting the JWT token if authentication is successful, "Fail" otherwise
+     */
+    public Mono<String> verify(Users user) {
+        return authManager
+                .authenticate(new UsernamePasswordAuthenticationToken(user.getUsername(), user.getPassword()))
+                .map(auth -> auth.isAuthenticated() ? jwtService.generateToken(user.getUsername()) : "Fail")
+                .onErrorMap(AuthenticationException.class,
+                        e -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, e.getMessage(), e));
+    }
+}
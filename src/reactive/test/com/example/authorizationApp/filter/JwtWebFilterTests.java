@@ -0,0 +1,117 @@
+package com.example.authorizationApp.filter;
+
+import com.example.authorizationApp.service.JWTService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@SpringBootTest(properties = {
+		"jwt.secret=" + JwtWebFilterTests.SECRET,
+		"spring.r2dbc.url=r2dbc:h2:mem:///reactive-users;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+class JwtWebFilterTests {
+
+	static final String SECRET = "reactive-jwt-filter-test-secret-0123456789";
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private DatabaseClient databaseClient;
+
+	@Autowired
+	private JWTService jwtService;
+
+	@BeforeEach
+	void setUp() {
+		databaseClient.sql("CREATE TABLE IF NOT EXISTS users (id INT PRIMARY KEY, username VARCHAR(255), password VARCHAR(255))")
+				.then()
+				.then(databaseClient.sql("DELETE FROM users").then())
+				.block();
+		webTestClient.post().uri("/register")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(Map.of("id", 1, "username", "alice", "password", "wonderland"))
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody().jsonPath("$.username").isEqualTo("alice");
+	}
+
+	@Test
+	void validBearerTokenOfStoredUserIsAuthenticated() {
+		getStudents(jwtService.generateToken("alice"))
+				.expectStatus().isOk();
+	}
+
+	@Test
+	void loginIssuesTokenFromR2dbcUser() {
+		String token = webTestClient.post().uri("/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(Map.of("username", "alice", "password", "wonderland"))
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class)
+				.returnResult().getResponseBody();
+
+		getStudents(token)
+				.expectStatus().isOk();
+	}
+
+	@Test
+	void loginWithBadCredentialsIsUnauthorized() {
+		webTestClient.post().uri("/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(Map.of("username", "alice", "password", "wrong"))
+				.exchange()
+				.expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void missingTokenIsUnauthorized() {
+		webTestClient.get().uri("/students")
+				.exchange()
+				.expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void malformedTokenIsUnauthorized() {
+		getStudents("not-a-jwt")
+				.expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void tokenSignedWithAnotherKeyIsUnauthorized() {
+		String forged = Jwts.builder()
+				.subject("alice")
+				.signWith(Keys.hmacShaKeyFor("another-secret-another-secret-0123456789".getBytes(StandardCharsets.UTF_8)))
+				.compact();
+
+		getStudents(forged)
+				.expectStatus().isUnauthorized();
+	}
+
+	@Test
+	void tokenOfUnknownUserIsUnauthorized() {
+		getStudents(jwtService.generateToken("mallory"))
+				.expectStatus().isUnauthorized();
+	}
+
+	private WebTestClient.ResponseSpec getStudents(String token) {
+		return webTestClient.get().uri("/students")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+				.exchange();
+	}
+}
@@ -0,0 +1,166 @@
+package com.example.authorizationApp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ReplicaRoutingDataSourceTests {
+
+	private static final String MISSING_DATABASE = "jdbc:h2:mem:missing;IFEXISTS=TRUE";
+
+	private SimpleDriverDataSource primary;
+	private SimpleDriverDataSource replica1;
+	private SimpleDriverDataSource replica2;
+	private ReplicaRoutingDataSource routingDataSource;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readWrite;
+	private TransactionTemplate readOnly;
+
+	@BeforeEach
+	void setUp() {
+		primary = embeddedDatabase("primary");
+		replica1 = embeddedDatabase("replica1");
+		replica2 = embeddedDatabase("replica2");
+		routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica1, replica2), Duration.ofHours(1));
+		jdbcTemplate = jdbcTemplate(routingDataSource);
+	}
+
+	@AfterEach
+	void tearDown() {
+		routingDataSource.close();
+	}
+
+	@Test
+	void readOnlyTransactionsAlternateBetweenReplicas() {
+		String first = readOnly.execute(status -> whichDatabase());
+		String second = readOnly.execute(status -> whichDatabase());
+		String third = readOnly.execute(status -> whichDatabase());
+
+		assertEquals(Set.of("replica1", "replica2"), Set.of(first, second));
+		assertNotEquals(first, second);
+		assertEquals(first, third);
+	}
+
+	@Test
+	void writesAndNonTransactionalReadsGoToPrimary() {
+		assertEquals("primary", readWrite.execute(status -> whichDatabase()));
+		assertEquals("primary", whichDatabase());
+	}
+
+	@Test
+	void pinnedReadsGoToPrimary() {
+		assertEquals("primary", ReplicaRoutingDataSource.onPrimary(() -> readOnly.execute(status -> whichDatabase())));
+	}
+
+	@Test
+	void unhealthyReplicaIsSkippedUntilItRecovers() {
+		String url = replica1.getUrl();
+		replica1.setUrl(MISSING_DATABASE);
+		routingDataSource.checkHealth();
+
+		assertEquals("replica2", readOnly.execute(status -> whichDatabase()));
+		assertEquals("replica2", readOnly.execute(status -> whichDatabase()));
+
+		replica1.setUrl(url);
+		routingDataSource.checkHealth();
+
+		assertEquals(Set.of("replica1", "replica2"),
+				Set.of(readOnly.execute(status -> whichDatabase()), readOnly.execute(status -> whichDatabase())));
+	}
+
+	@Test
+	void noHealthyReplicaFallsBackToPrimary() {
+		replica1.setUrl(MISSING_DATABASE);
+		replica2.setUrl(MISSING_DATABASE);
+		routingDataSource.checkHealth();
+
+		assertEquals("primary", readOnly.execute(status -> whichDatabase()));
+	}
+
+	@Test
+	void runtimeExceptionDuringHealthCheckMarksReplicaUnhealthy() {
+		routingDataSource.close();
+		DataSource failing = new AbstractDataSource() {
+			@Override
+			public Connection getConnection() {
+				throw new IllegalStateException("pool closed");
+			}
+
+			@Override
+			public Connection getConnection(String username, String password) {
+				throw new IllegalStateException("pool closed");
+			}
+		};
+		routingDataSource = new ReplicaRoutingDataSource(primary, List.of(failing, replica2), Duration.ofHours(1));
+		jdbcTemplate = jdbcTemplate(routingDataSource);
+
+		assertDoesNotThrow(routingDataSource::checkHealth);
+		assertEquals("replica2", readOnly.execute(status -> whichDatabase()));
+		assertEquals("replica2", readOnly.execute(status -> whichDatabase()));
+	}
+
+	@Test
+	void exhaustedReplicaPoolIsSkippedButStaysHealthy() throws Exception {
+		routingDataSource.close();
+		HikariDataSource pool = new HikariDataSource();
+		pool.setJdbcUrl(replica1.getUrl());
+		pool.setUsername("sa");
+		pool.setMaximumPoolSize(1);
+		pool.setConnectionTimeout(250);
+		routingDataSource = new ReplicaRoutingDataSource(primary, List.of(pool, replica2), Duration.ofHours(1));
+		jdbcTemplate = jdbcTemplate(routingDataSource);
+
+		Connection held = pool.getConnection();  // Exhausts the pool without making the replica unreachable
+		try {
+			routingDataSource.checkHealth();
+
+			assertEquals("replica2", readOnly.execute(status -> whichDatabase()));
+			assertEquals("replica2", readOnly.execute(status -> whichDatabase()));
+		} finally {
+			held.close();
+		}
+
+		assertEquals(Set.of("replica1", "replica2"),
+				Set.of(readOnly.execute(status -> whichDatabase()), readOnly.execute(status -> whichDatabase())));
+	}
+
+	private JdbcTemplate jdbcTemplate(ReplicaRoutingDataSource routingDataSource) {
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		return new JdbcTemplate(dataSource);
+	}
+
+	private String whichDatabase() {
+		return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+	}
+
+	private static SimpleDriverDataSource embeddedDatabase(String name) {
+		SimpleDriverDataSource dataSource = new SimpleDriverDataSource(
+				new org.h2.Driver(), "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(16))");
+		jdbcTemplate.execute("DELETE FROM marker");
+		jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+		return dataSource;
+	}
+}
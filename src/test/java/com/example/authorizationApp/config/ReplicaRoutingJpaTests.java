@@ -0,0 +1,126 @@
+package com.example.authorizationApp.config;
+
+import com.example.authorizationApp.model.Users;
+import com.example.authorizationApp.repo.UserRepo;
+import com.example.authorizationApp.service.CustomizedUserDetailsService;
+import com.example.authorizationApp.service.UsersService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+		"jwt.secret=replica-routing-test-secret-0123456789abcdef",
+		"spring.datasource.url=jdbc:h2:mem:jpa-primary;DB_CLOSE_DELAY=-1",
+		"spring.datasource.hikari.maximum-pool-size=3",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.open-in-view=false",
+		"app.datasource.replica.urls=" + ReplicaRoutingJpaTests.REPLICA1 + "," + ReplicaRoutingJpaTests.REPLICA2
+})
+class ReplicaRoutingJpaTests {
+
+	static final String REPLICA1 = "jdbc:h2:mem:jpa-replica1;DB_CLOSE_DELAY=-1";
+	static final String REPLICA2 = "jdbc:h2:mem:jpa-replica2;DB_CLOSE_DELAY=-1";
+
+	@Autowired
+	private UserRepo userRepo;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Autowired
+	private CustomizedUserDetailsService userDetailsService;
+
+	@Autowired
+	private ReplicaRoutingDataSource routingDataSource;
+
+	@Autowired
+	private HikariDataSource primaryDataSource;
+
+	@BeforeEach
+	void setUp() {
+		// The password column records which database answered the lookup
+		userRepo.deleteAll();
+		userRepo.save(user(1, "alice", "primary"));
+		replicate(REPLICA1, "replica1");
+		replicate(REPLICA2, "replica2");
+		routingDataSource.checkHealth();
+	}
+
+	@Test
+	void poolsAreBoundToHikariSettings() {
+		assertEquals(3, primaryDataSource.getMaximumPoolSize());
+		for (DataSource replica : routingDataSource.getReplicaDataSources()) {
+			HikariDataSource pool = (HikariDataSource) replica;
+			assertEquals(3, pool.getMaximumPoolSize());
+			assertEquals(1000, pool.getConnectionTimeout());
+		}
+	}
+
+	@Test
+	void findByUsernameIsServedByReplicasInTurn() {
+		String first = userRepo.findByUsername("alice").getPassword();
+		String second = userRepo.findByUsername("alice").getPassword();
+
+		assertEquals(Set.of("replica1", "replica2"), Set.of(first, second));
+		assertNotEquals(first, second);
+	}
+
+	@Test
+	void justRegisteredUserIsReadFromPrimary() {
+		Users bob = user(2, "bob", "secret");
+		usersService.registerUser(bob);
+		replicateStale(REPLICA1, "bob");
+		replicateStale(REPLICA2, "bob");
+
+		// The replicas still hold an outdated row, so only the primary returns the new password
+		assertEquals("stale", userRepo.findByUsername("bob").getPassword());
+		assertEquals(bob.getPassword(), userDetailsService.loadUserByUsername("bob").getPassword());
+	}
+
+	@Test
+	void userMissingOnReplicasIsRetriedOnPrimary() {
+		// Registered through another instance, so this instance's tracker knows nothing about it
+		userRepo.save(user(3, "carol", "primary"));
+
+		assertNull(userRepo.findByUsername("carol"));
+		assertEquals("primary", userDetailsService.loadUserByUsername("carol").getPassword());
+	}
+
+	@Test
+	void unknownUserIsNotFound() {
+		assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("dave"));
+	}
+
+	private static void replicate(String url, String marker) {
+		JdbcTemplate replica = new JdbcTemplate(new SimpleDriverDataSource(new org.h2.Driver(), url, "sa", ""));
+		replica.execute("CREATE TABLE IF NOT EXISTS users (id INT PRIMARY KEY, username VARCHAR(255), password VARCHAR(255))");
+		replica.execute("DELETE FROM users");
+		replica.update("INSERT INTO users (id, username, password) VALUES (1, 'alice', ?)", marker);
+	}
+
+	private static void replicateStale(String url, String username) {
+		JdbcTemplate replica = new JdbcTemplate(new SimpleDriverDataSource(new org.h2.Driver(), url, "sa", ""));
+		replica.update("INSERT INTO users (id, username, password) VALUES (2, ?, 'stale')", username);
+	}
+
+	private static Users user(int id, String username, String password) {
+		Users user = new Users();
+		user.setId(id);
+		user.setUsername(username);
+		user.setPassword(password);
+		return user;
+	}
+}
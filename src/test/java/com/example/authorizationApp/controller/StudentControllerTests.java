@@ -0,0 +1,100 @@
+package com.example.authorizationApp.controller;
+
+import com.example.authorizationApp.filter.JwtFilter;
+import com.example.authorizationApp.model.Student;
+import com.example.authorizationApp.service.StudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = StudentController.class,
+		excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtFilter.class))
+@Import(StudentService.class)
+@WithMockUser
+class StudentControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private StudentService studentService;
+
+	@Test
+	void returnsRevalidatableJsonWithETag() throws Exception {
+		mockMvc.perform(get("/students"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.ETAG, studentService.getETag(false)))
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(content().bytes(studentService.getRepresentation().json()));
+	}
+
+	@Test
+	void matchingIfNoneMatchReturnsNotModified() throws Exception {
+		String eTag = mockMvc.perform(get("/students"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(get("/students").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.ETAG, eTag))
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+				.andExpect(content().bytes(new byte[0]));
+	}
+
+	@Test
+	void writeInvalidatesETag() throws Exception {
+		String eTag = mockMvc.perform(get("/students"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		studentService.addStudent(new Student("Ada", 90));
+
+		String newETag = mockMvc.perform(get("/students").header(HttpHeaders.IF_NONE_MATCH, eTag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		assertNotEquals(eTag, newETag);
+	}
+
+	@Test
+	void servesGzipBodyWithItsOwnETag() throws Exception {
+		byte[] body = mockMvc.perform(get("/students").header(HttpHeaders.ACCEPT_ENCODING, "br, gzip;q=0.8"))
+				.andExpect(status().isOk())
+				.andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+				.andExpect(header().string(HttpHeaders.ETAG, studentService.getETag(true)))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		assertEquals(new String(studentService.getRepresentation().json(), StandardCharsets.UTF_8), gunzip(body));
+	}
+
+	@Test
+	void gzipWithZeroQualityIsNotUsed() throws Exception {
+		mockMvc.perform(get("/students").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+				.andExpect(status().isOk())
+				.andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+				.andExpect(header().string(HttpHeaders.ETAG, studentService.getETag(false)));
+	}
+
+	private static String gunzip(byte[] body) throws IOException {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+}
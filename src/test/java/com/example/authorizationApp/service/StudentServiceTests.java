@@ -0,0 +1,79 @@
+package com.example.authorizationApp.service;
+
+import com.example.authorizationApp.model.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudentServiceTests {
+
+	private StudentService studentService;
+
+	@BeforeEach
+	void setUp() {
+		studentService = new StudentService();
+		ReflectionTestUtils.setField(studentService, "objectMapper", new ObjectMapper());
+	}
+
+	@Test
+	void addStudentChangesETag() {
+		String before = studentService.getETag(false);
+
+		studentService.addStudent(new Student("Ada", 90));
+
+		assertNotEquals(before, studentService.getETag(false));
+	}
+
+	@Test
+	void gzipAndIdentityETagsDiffer() {
+		assertNotEquals(studentService.getETag(false), studentService.getETag(true));
+	}
+
+	@Test
+	void representationIsReusedUntilWrite() {
+		StudentService.Representation first = studentService.getRepresentation();
+		assertSame(first, studentService.getRepresentation());
+
+		studentService.addStudent(new Student("Ada", 90));
+		StudentService.Representation second = studentService.getRepresentation();
+
+		assertNotSame(first, second);
+		assertEquals(studentService.getETag(false), second.eTag());
+		assertEquals(studentService.getETag(true), second.gzipETag());
+		assertEquals("[{\"name\":\"Ada\",\"grade\":90}]", new String(second.json(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void gzipBodyDecompressesToJson() throws IOException {
+		studentService.addStudent(new Student("Ada", 90));
+		StudentService.Representation representation = studentService.getRepresentation();
+
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(representation.gzip()))) {
+			assertArrayEquals(representation.json(), in.readAllBytes());
+		}
+	}
+
+	@Test
+	void acceptsGzipHonoursQualityValues() {
+		assertTrue(StudentService.acceptsGzip("gzip"));
+		assertTrue(StudentService.acceptsGzip("br, GZIP;q=0.5"));
+		assertFalse(StudentService.acceptsGzip(null));
+		assertFalse(StudentService.acceptsGzip("br, deflate"));
+		assertFalse(StudentService.acceptsGzip("gzip;q=0"));
+		assertFalse(StudentService.acceptsGzip("gzip; q=0.000"));
+	}
+}